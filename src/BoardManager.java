@@ -1,4 +1,6 @@
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Classe BoardManager qui gère la logique du jeu Tic Tac Toe.
@@ -8,9 +10,24 @@ public class BoardManager {
 
     private Board board; //Grille du jeu
     private TurnManager gameState; //Gère l'état du jeu et le tour du joueur.
-    private Random rand; //Générateur de nombres aléatoires pour les mouvements de l'ordinateur.
+    private MoveStrategy strategy; //Choisit les mouvements de l'ordinateur.
     private int lastRow, lastCol; //Position du dernier movement joué.
 
+    //Dernière position publiée, lisible depuis tout thread. Jusqu'au 4x4, les cases et la version tiennent
+    //dans un long et la copie n'est construite qu'à la lecture ; au-delà, une copie est publiée à chaque coup.
+    private final int size;
+    private final boolean packed;
+    private final boolean publishSnapshots;
+    private volatile long packedSnapshot;
+    private volatile BoardSnapshot snapshot;
+
+    //Publication par une écriture ordonnée (lazySet) : les lecteurs voient une position complète,
+    //sans la barrière mémoire complète d'une écriture volatile ordinaire sur le chemin d'un coup.
+    private static final AtomicLongFieldUpdater<BoardManager> PACKED_SNAPSHOT =
+            AtomicLongFieldUpdater.newUpdater(BoardManager.class, "packedSnapshot");
+    private static final AtomicReferenceFieldUpdater<BoardManager, BoardSnapshot> SNAPSHOT =
+            AtomicReferenceFieldUpdater.newUpdater(BoardManager.class, BoardSnapshot.class, "snapshot");
+
     /**
      * Constructeur de BoardManager.
      *
@@ -19,9 +36,28 @@ public class BoardManager {
      */
     public BoardManager(int size, char playerRole)
     {
+        this(size, playerRole, true, new Random());
+    }
+
+    /**
+     * Constructeur de BoardManager qui peut désactiver la publication des copies de la grille,
+     * pour mesurer son coût (voir SnapshotBenchmark).
+     *
+     * @param size Taille de la grille de jeu.
+     * @param playerRole Rôle du joueur ('X' ou 'O').
+     * @param publishSnapshots false pour ne jamais mettre à jour la copie publiée.
+     * @param rand Générateur utilisé pour les coups aléatoires de l'ordinateur.
+     */
+    BoardManager(int size, char playerRole, boolean publishSnapshots, Random rand)
+    {
+        this.publishSnapshots = publishSnapshots;
         this.board = new Board(size);
+        this.size = size;
+        this.packed = BoardSnapshot.fitsInLong(size);
+        if (!packed)
+            this.snapshot = BoardSnapshot.empty(size);
         this.gameState = new TurnManager(playerRole);
-        this.rand = new Random();
+        this.strategy = new RandomStrategy(rand);
     }
 
     /**
@@ -43,7 +79,22 @@ public class BoardManager {
     }
 
     /**
-     * Gère le tour de l'ordinateur qui joue un coup aléatoire sur une case libre.
+     * Fait jouer le joueur avec une stratégie, pour les parties entre ordinateurs.
+     *
+     * @param playerStrategy Stratégie qui choisit le coup du joueur.
+     * @return La ligne et colonne du coup joué, ou null si ce n'est pas au tour du joueur.
+     */
+    public int[] playerTurn(MoveStrategy playerStrategy)
+    {
+        if (!gameState.isPlayerTurn())
+            return null;
+
+        int[] move = playerStrategy.chooseMove(board, gameState.getCurrentRole());
+        return playerTurn(move[0], move[1]) ? move : null;
+    }
+
+    /**
+     * Gère le tour de l'ordinateur qui joue le coup choisi par sa stratégie (par défaut un coup aléatoire sur une case libre).
      *
      * @return La ligne et colonne du coup joué par l'ordinateur, ou null si ce n'est pas son tour.
      */
@@ -52,18 +103,11 @@ public class BoardManager {
         if (gameState.isPlayerTurn())
             return null;
 
-        //Générer aléatoirement une case vide pour jouer.
-        int row, col;
-        do
-        {
-            row = rand.nextInt(board.getSize());
-            col = rand.nextInt(board.getSize());
-        }
-        while (!board.isCellEmpty(row, col));
+        int[] move = strategy.chooseMove(board, gameState.getCurrentRole());
 
         //Jouer le coup et change de tour.
-        nextMove(row, col);
-        return new int[]{row, col};
+        nextMove(move[0], move[1]);
+        return move;
     }
 
     /**
@@ -74,7 +118,13 @@ public class BoardManager {
      */
     private void nextMove(int row, int col)
     {
-        board.placeMove(row, col, gameState.getCurrentRole());
+        char move = gameState.getCurrentRole();
+        board.placeMove(row, col, move);
+        //Publier la nouvelle position aux lecteurs.
+        if (packed && publishSnapshots)
+            PACKED_SNAPSHOT.lazySet(this, BoardSnapshot.packMove(packedSnapshot, row * size + col, move));
+        else if (publishSnapshots)
+            SNAPSHOT.lazySet(this, snapshot.withMove(row, col, move));
         lastRow = row;
         lastCol = col;
         gameState.switchTurn(); //Passer au tour suivant
@@ -169,11 +219,37 @@ public class BoardManager {
         gameState.setRole(playerRole);
     }
 
+    /**
+     * Définit la stratégie utilisée pour les coups de l'ordinateur.
+     *
+     * @param strategy La stratégie de l'ordinateur.
+     */
+    public void setStrategy(MoveStrategy strategy)
+    {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Retourne la dernière copie immuable de la grille, publiée après chaque coup.
+     * Elle peut être lue depuis n'importe quel thread sans synchronisation.
+     * Jusqu'au 4x4, la copie est construite à chaque appel à partir de la position compacte.
+     *
+     * @return La copie de la grille.
+     */
+    public BoardSnapshot getSnapshot()
+    {
+        return packed ? BoardSnapshot.unpack(size, packedSnapshot) : snapshot;
+    }
+
     /**
      * Réinitialise la grille.
      */
     public void resetGrid()
     {
         board.reset();
+        if (packed && publishSnapshots)
+            PACKED_SNAPSHOT.lazySet(this, BoardSnapshot.packReset(packedSnapshot));
+        else if (publishSnapshots)
+            SNAPSHOT.lazySet(this, snapshot.reset());
     }
 }
@@ -0,0 +1,210 @@
+/**
+ * Classe BoardSnapshot qui représente une copie immuable d'une grille à un instant donné.
+ * Les cases sont codées sur 2 bits et regroupées dans des entiers longs : les 32 premières
+ * dans un champ, les suivantes dans un tableau. Un coup dans les 32 premières cases garde le même tableau,
+ * un coup au-delà recopie tout le tableau.
+ * Une copie peut être lue par n'importe quel thread sans synchronisation.
+ */
+public final class BoardSnapshot {
+
+    private static final int CELLS_PER_WORD = 32; //2 bits par case dans un long.
+    private static final long CELL_X = 1, CELL_O = 2; //Une case vide vaut 0.
+
+    //Position compacte des grilles de 4x4 ou moins : cases dans les 32 bits de poids faible, version dans les autres.
+    private static final int PACKED_MAX_SIZE = 4;
+    private static final long PACKED_CELLS = 0xFFFFFFFFL;
+    private static final long PACKED_VERSION_ONE = 1L << 32;
+
+    private final int size;
+    private final long version; //Augmente à chaque coup et à chaque réinitialisation.
+    private final int emptyCells;
+    private final long low; //Cases 0 à 31.
+    private final long[] high; //Cases suivantes, null pour les grilles de 5x5 ou moins.
+
+    private BoardSnapshot(int size, long version, int emptyCells, long low, long[] high)
+    {
+        this.size = size;
+        this.version = version;
+        this.emptyCells = emptyCells;
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Crée la copie d'une grille vide.
+     *
+     * @param size Taille de la grille.
+     * @return Une copie de version 0.
+     */
+    public static BoardSnapshot empty(int size)
+    {
+        return empty(size, 0);
+    }
+
+    private static BoardSnapshot empty(int size, long version)
+    {
+        int words = (size * size + CELLS_PER_WORD - 1) / CELLS_PER_WORD;
+        long[] high = (words > 1) ? new long[words - 1] : null;
+        return new BoardSnapshot(size, version, size * size, 0, high);
+    }
+
+    /**
+     * Vérifie si les cases et la version d'une grille tiennent dans une position compacte (un long).
+     *
+     * @param size Taille de la grille.
+     * @return true pour les grilles de 4x4 ou moins.
+     */
+    static boolean fitsInLong(int size)
+    {
+        return size <= PACKED_MAX_SIZE;
+    }
+
+    /**
+     * Joue un coup dans une position compacte et augmente sa version.
+     *
+     * @param packed Position compacte.
+     * @param index Indice de la case (ligne * taille + colonne).
+     * @param move Symbole joué ('X' ou 'O').
+     * @return La position compacte suivante.
+     */
+    static long packMove(long packed, int index, char move)
+    {
+        long code = (move == 'X') ? CELL_X : CELL_O;
+        return (packed | (code << (index * 2))) + PACKED_VERSION_ONE;
+    }
+
+    /**
+     * Vide une position compacte et augmente sa version.
+     *
+     * @param packed Position compacte.
+     * @return La position compacte vide suivante.
+     */
+    static long packReset(long packed)
+    {
+        return (packed & ~PACKED_CELLS) + PACKED_VERSION_ONE;
+    }
+
+    /**
+     * Construit la copie d'une position compacte. La version est comptée modulo 2^32.
+     *
+     * @param size Taille de la grille (4 ou moins).
+     * @param packed Position compacte.
+     * @return La copie.
+     */
+    static BoardSnapshot unpack(int size, long packed)
+    {
+        long cells = packed & PACKED_CELLS;
+        int filled = Long.bitCount((cells | (cells >>> 1)) & 0x55555555L); //Un bit par case occupée.
+        return new BoardSnapshot(size, packed >>> 32, size * size - filled, cells, null);
+    }
+
+    /**
+     * Retourne une nouvelle copie avec le coup donné joué. Le tableau des cases suivantes est partagé
+     * avec cette copie si le coup est dans les 32 premières cases, et recopié en entier sinon.
+     *
+     * @param row Ligne du coup.
+     * @param col Colonne du coup.
+     * @param move Symbole joué ('X' ou 'O').
+     * @return La copie suivante.
+     */
+    public BoardSnapshot withMove(int row, int col, char move)
+    {
+        int index = row * size + col;
+        long code = (move == 'X') ? CELL_X : CELL_O;
+        long bits = code << ((index % CELLS_PER_WORD) * 2);
+
+        if (index < CELLS_PER_WORD)
+            return new BoardSnapshot(size, version + 1, emptyCells - 1, low | bits, high);
+
+        long[] words = high.clone();
+        words[index / CELLS_PER_WORD - 1] |= bits;
+        return new BoardSnapshot(size, version + 1, emptyCells - 1, low, words);
+    }
+
+    /**
+     * Retourne la copie d'une grille vide qui suit celle-ci.
+     *
+     * @return Une copie vide avec une version supérieure.
+     */
+    public BoardSnapshot reset()
+    {
+        return empty(size, version + 1);
+    }
+
+    /**
+     * Récupère le contenu de la cellule spécifiée.
+     *
+     * @param row Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return 'X', 'O' ou ' ' pour une case vide.
+     */
+    public char getCell(int row, int col)
+    {
+        int index = row * size + col;
+        long word = (index < CELLS_PER_WORD) ? low : high[index / CELLS_PER_WORD - 1];
+        long code = (word >>> ((index % CELLS_PER_WORD) * 2)) & 3;
+        return (code == CELL_X) ? 'X' : (code == CELL_O) ? 'O' : ' ';
+    }
+
+    /**
+     * Vérifie si la cellule spécifiée est vide.
+     *
+     * @param row Ligne de la cellule.
+     * @param col Colonne de la cellule.
+     * @return true si la cellule est vide, false sinon.
+     */
+    public boolean isCellEmpty(int row, int col)
+    {
+        return getCell(row, col) == ' ';
+    }
+
+    /**
+     * Vérifie si la grille est pleine.
+     *
+     * @return true si la grille est pleine, false sinon.
+     */
+    public boolean isFull()
+    {
+        return emptyCells == 0;
+    }
+
+    /**
+     * Retourne la taille de la grille.
+     *
+     * @return La taille de la grille.
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Retourne la version de la copie : deux copies de même version d'une même partie sont identiques.
+     * Jusqu'au 4x4, la version est stockée sur 32 bits et revient à 0 après 2^32 coups et réinitialisations.
+     *
+     * @return Le nombre de coups et de réinitialisations depuis la création de la grille, modulo 2^32
+     *         jusqu'au 4x4.
+     */
+    public long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Affiche la grille ligne par ligne, par exemple pour les journaux.
+     *
+     * @return La grille sous forme de texte.
+     */
+    @Override
+    public String toString()
+    {
+        StringBuilder text = new StringBuilder("v").append(version);
+        for (int i = 0; i < size; i++)
+        {
+            text.append('\n');
+            for (int j = 0; j < size; j++)
+                text.append(isCellEmpty(i, j) ? '.' : getCell(i, j));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,91 @@
+import java.util.Arrays;
+
+/**
+ * Classe EloRatings qui calcule un classement Elo à partir des résultats d'un tournoi.
+ * Les classements sont l'estimation du maximum de vraisemblance du modèle de Bradley-Terry
+ * (un nul compte pour une demi-victoire), obtenue par l'algorithme MM de Hunter.
+ */
+public final class EloRatings {
+
+    private static final int ITERATIONS = 10_000;
+    private static final double ELO_PER_NATURAL_UNIT = 400 / Math.log(10);
+
+    private EloRatings() {}
+
+    /**
+     * Calcule le classement de chaque joueur et la demi-largeur de son intervalle de confiance à 95 %.
+     * Un nul virtuel est ajouté entre chaque paire de joueurs : sans lui, un joueur qui ne perd jamais
+     * aurait un classement infini. La moyenne des classements vaut 0.
+     * L'intervalle ne tient compte que de la variance propre à chaque joueur (covariances ignorées).
+     *
+     * @param score score[i][j] = points de i contre j (victoire = 1, nul = 0.5).
+     * @param games games[i][j] = nombre de parties entre i et j.
+     * @return Pour chaque joueur, {classement, demi-largeur de l'intervalle à 95 %}.
+     */
+    public static double[][] compute(double[][] score, double[][] games)
+    {
+        int n = score.length;
+        double[][] s = new double[n][n];
+        double[][] g = new double[n][n];
+        double[] wins = new double[n];
+
+        for (int i = 0; i < n; i++)
+        {
+            for (int j = 0; j < n; j++)
+            {
+                if (i == j)
+                    continue;
+                s[i][j] = score[i][j] + 0.5; //Nul virtuel.
+                g[i][j] = games[i][j] + 1;
+                wins[i] += s[i][j];
+            }
+        }
+
+        //Algorithme MM : gamma_i = victoires_i / somme_j(parties_ij / (gamma_i + gamma_j)).
+        double[] gamma = new double[n];
+        Arrays.fill(gamma, 1);
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+        {
+            double change = 0, logSum = 0;
+            double[] next = new double[n];
+            for (int i = 0; i < n; i++)
+            {
+                double denominator = 0;
+                for (int j = 0; j < n; j++)
+                    if (i != j)
+                        denominator += g[i][j] / (gamma[i] + gamma[j]);
+                next[i] = wins[i] / denominator;
+                logSum += Math.log(next[i]);
+            }
+
+            //Normaliser pour que la moyenne des classements soit 0.
+            double scale = Math.exp(logSum / n);
+            for (int i = 0; i < n; i++)
+            {
+                next[i] /= scale;
+                change = Math.max(change, Math.abs(Math.log(next[i] / gamma[i])));
+            }
+            gamma = next;
+
+            if (change < 1e-12)
+                break;
+        }
+
+        //Erreur type tirée de l'information de Fisher de chaque joueur.
+        double[][] ratings = new double[n][2];
+        for (int i = 0; i < n; i++)
+        {
+            double information = 0;
+            for (int j = 0; j < n; j++)
+            {
+                if (i == j)
+                    continue;
+                double p = gamma[i] / (gamma[i] + gamma[j]);
+                information += g[i][j] * p * (1 - p);
+            }
+            ratings[i][0] = ELO_PER_NATURAL_UNIT * Math.log(gamma[i]);
+            ratings[i][1] = 1.96 * ELO_PER_NATURAL_UNIT / Math.sqrt(information);
+        }
+        return ratings;
+    }
+}
@@ -0,0 +1,78 @@
+import java.util.Random;
+
+/**
+ * Classe GreedyStrategy qui gagne immédiatement quand c'est possible, bloque sinon
+ * une victoire immédiate de l'adversaire, et joue au hasard dans les autres cas.
+ */
+public class GreedyStrategy implements MoveStrategy {
+
+    private final RandomStrategy fallback; //Coup joué quand rien n'est urgent.
+
+    /**
+     * Constructeur de la classe GreedyStrategy.
+     *
+     * @param rand Générateur de nombres aléatoires.
+     */
+    public GreedyStrategy(Random rand)
+    {
+        this.fallback = new RandomStrategy(rand);
+    }
+
+    @Override
+    public int[] chooseMove(Board board, char role)
+    {
+        char opponent = (role == 'X') ? 'O' : 'X';
+
+        int[] move = findCompletingMove(board, role); //Gagner.
+        if (move == null)
+            move = findCompletingMove(board, opponent); //Bloquer.
+
+        return (move != null) ? move : fallback.chooseMove(board, role);
+    }
+
+    /**
+     * Cherche une case vide qui complète une ligne pour le symbole donné.
+     *
+     * @param board Grille actuelle.
+     * @param symbol Symbole à tester.
+     * @return La ligne et la colonne de la case, ou null s'il n'y en a pas.
+     */
+    private int[] findCompletingMove(Board board, char symbol)
+    {
+        int size = board.getSize();
+
+        for (int row = 0; row < size; row++)
+            for (int col = 0; col < size; col++)
+                if (board.isCellEmpty(row, col) && completesLine(board, row, col, symbol))
+                    return new int[]{row, col};
+
+        return null;
+    }
+
+    /**
+     * Vérifie si jouer le symbole sur la case donnée complèterait une ligne,
+     * c'est-à-dire si toutes les autres cases d'une ligne passant par elle contiennent ce symbole.
+     *
+     * @param board Grille actuelle.
+     * @param row Ligne de la case.
+     * @param col Colonne de la case.
+     * @param symbol Symbole à tester.
+     * @return true si une ligne serait complétée, false sinon.
+     */
+    private boolean completesLine(Board board, int row, int col, char symbol)
+    {
+        int size = board.getSize();
+        boolean horizontal = true, vertical = true;
+        boolean diagonal = (row == col), antiDiagonal = (row + col == size - 1);
+
+        for (int i = 0; i < size; i++)
+        {
+            horizontal &= (i == col || board.getCell(row, i) == symbol);
+            vertical &= (i == row || board.getCell(i, col) == symbol);
+            diagonal &= (i == row || board.getCell(i, i) == symbol);
+            antiDiagonal &= (i == row || board.getCell(i, size - 1 - i) == symbol);
+        }
+
+        return horizontal || vertical || diagonal || antiDiagonal;
+    }
+}
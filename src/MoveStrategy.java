@@ -0,0 +1,48 @@
+import java.util.Random;
+
+/**
+ * Interface MoveStrategy qui représente une façon de choisir le coup de l'ordinateur.
+ * Les stratégies sont utilisées par BoardManager et comparées entre elles par TournamentRunner.
+ */
+public interface MoveStrategy {
+
+    String[] NAMES = {"random", "greedy", "solver"}; //Noms acceptés par create.
+
+    /**
+     * Choisit une case vide où jouer.
+     *
+     * @param board Grille actuelle, qui contient au moins une case vide.
+     * @param role Symbole à jouer ('X' ou 'O').
+     * @return La ligne et la colonne du coup.
+     */
+    int[] chooseMove(Board board, char role);
+
+    /**
+     * Crée une stratégie à partir de son nom.
+     *
+     * @param name "random", "greedy" ou "solver".
+     * @param size Taille de la grille.
+     * @param rand Générateur de nombres aléatoires utilisé par la stratégie.
+     * @return La stratégie.
+     * @throws IllegalArgumentException Si le nom est inconnu, ou si le solveur ne peut pas prouver de coups
+     *         sur cette taille de grille (voir ProofNumberSolver.forPlay).
+     */
+    static MoveStrategy create(String name, int size, Random rand)
+    {
+        switch (name)
+        {
+            case "random":
+                return new RandomStrategy(rand);
+            case "greedy":
+                return new GreedyStrategy(rand);
+            case "solver":
+                ProofNumberSolver solver = ProofNumberSolver.forPlay(size);
+                if (solver == null)
+                    throw new IllegalArgumentException("No solver for " + size + "x" + size
+                            + ": run 'java ProofNumberSolver " + size + "' until it solves the empty board");
+                return new SolverStrategy(solver, rand);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
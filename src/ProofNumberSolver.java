@@ -0,0 +1,752 @@
+import java.io.*;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Classe ProofNumberSolver qui calcule la valeur exacte d'une grille avec une recherche df-pn
+ * (depth-first proof-number search).
+ * Les règles sont celles de BoardManager.checkState : il faut aligner autant de symboles
+ * que la taille de la grille, 'X' commence, et la grille pleine sans ligne est un match nul.
+ * Les nombres de preuve et de réfutation sont stockés dans une table de transposition
+ * à taille fixe composée de tableaux primitifs, qui peut être sauvegardée sur disque
+ * pour reprendre un calcul long.
+ */
+public class ProofNumberSolver {
+
+    //Résultats d'une recherche pour un attaquant donné.
+    public static final int PROVEN = 1; //L'attaquant force la victoire.
+    public static final int DISPROVEN = 0; //L'attaquant ne peut pas forcer la victoire.
+    public static final int UNKNOWN = -1; //Limite de noeuds atteinte avant la fin de la recherche.
+
+    public static final int MAX_LIVE_SIZE = 4; //Plus grande taille résolue pendant une partie dans la limite de noeuds.
+
+    private static final int INF = Integer.MAX_VALUE / 2; //Nombre de preuve "infini".
+    private static final int CHECKPOINT_MAGIC = 0x50464E31; //Signature du fichier de sauvegarde.
+    private static final byte EMPTY = 0, CELL_X = 1, CELL_O = 2;
+
+    private final int size;
+    private final int cellCount;
+
+    //Clés de Zobrist : une par case et par symbole, plus une pour distinguer l'attaquant 'O'.
+    private final long[] zobristX;
+    private final long[] zobristO;
+    private final long attackerOKey;
+
+    //Table de transposition : deux emplacements par clé, remplacement selon l'effort de recherche.
+    private final int mask;
+    private final long[] keys;
+    private final int[] proofs;
+    private final int[] disproofs;
+    private final int[] works;
+
+    //Position en cours d'analyse.
+    private final byte[] cells;
+    private int filled;
+    private long hash;
+
+    //Lignes gagnantes : lignes, colonnes et les deux diagonales.
+    private final int[][] cellLines; //Indices des lignes qui passent par chaque case.
+    private final int[] lineX, lineO; //Nombre de 'X' et de 'O' sur chaque ligne.
+    private int openX, openO; //Nombre de lignes encore gagnables par 'X' et par 'O'.
+
+    //Paramètres de la recherche en cours.
+    private byte attacker;
+    private long nodes;
+    private long nodeLimit;
+
+    //Valeurs du dernier enfant évalué par evaluateChild (évite d'allouer un tableau par enfant).
+    private int childPn, childDn;
+
+    //Sauvegarde périodique de la table.
+    private Path checkpointFile;
+    private long checkpointInterval;
+    private long nextCheckpoint;
+
+    /**
+     * Constructeur de la classe ProofNumberSolver.
+     *
+     * @param size Taille de la grille.
+     * @param tableBits Logarithme en base 2 du nombre d'entrées de la table (20 octets par entrée).
+     */
+    public ProofNumberSolver(int size, int tableBits)
+    {
+        if (size < 1 || tableBits < 1 || tableBits > 30)
+            throw new IllegalArgumentException("Invalid solver parameters");
+
+        this.size = size;
+        this.cellCount = size * size;
+        this.cells = new byte[cellCount];
+
+        Random zobrist = new Random(0x5EED + size); //Graine fixe pour que les sauvegardes restent valides.
+        this.zobristX = new long[cellCount];
+        this.zobristO = new long[cellCount];
+        for (int i = 0; i < cellCount; i++)
+        {
+            zobristX[i] = zobrist.nextLong();
+            zobristO[i] = zobrist.nextLong();
+        }
+        this.attackerOKey = zobrist.nextLong();
+
+        this.cellLines = new int[cellCount][];
+        for (int i = 0; i < cellCount; i++)
+        {
+            int row = i / size, col = i % size;
+            int count = 2 + (row == col ? 1 : 0) + (row + col == size - 1 ? 1 : 0);
+            int[] lines = new int[count];
+            int n = 0;
+            lines[n++] = row; //Ligne horizontale
+            lines[n++] = size + col; //Colonne
+            if (row == col)
+                lines[n++] = 2 * size; //Première diagonale
+            if (row + col == size - 1)
+                lines[n++] = 2 * size + 1; //Seconde diagonale
+            cellLines[i] = lines;
+        }
+        this.lineX = new int[2 * size + 2];
+        this.lineO = new int[2 * size + 2];
+
+        int capacity = 1 << tableBits;
+        this.mask = capacity - 1;
+        this.keys = new long[capacity];
+        this.proofs = new int[capacity];
+        this.disproofs = new int[capacity];
+        this.works = new int[capacity];
+    }
+
+    /**
+     * Active la sauvegarde périodique de la table de transposition.
+     *
+     * @param file Fichier de sauvegarde.
+     * @param intervalNodes Nombre de noeuds explorés entre deux sauvegardes.
+     */
+    public void setCheckpoint(Path file, long intervalNodes)
+    {
+        this.checkpointFile = file;
+        this.checkpointInterval = intervalNodes;
+    }
+
+    /**
+     * Cherche si le rôle donné peut forcer la victoire depuis la position de la grille.
+     *
+     * @param board Grille à analyser.
+     * @param role Rôle de l'attaquant ('X' ou 'O').
+     * @param limit Nombre maximal de noeuds à explorer.
+     * @return PROVEN, DISPROVEN ou UNKNOWN.
+     */
+    public int solve(Board board, char role, long limit)
+    {
+        loadPosition(board);
+        return search(role == 'X' ? CELL_X : CELL_O, limit);
+    }
+
+    /**
+     * Choisit un coup parfait pour le joueur qui doit jouer : un coup gagnant si la position est gagnée,
+     * sinon un coup qui garantit au moins le match nul. Les preuves déjà présentes dans la table
+     * sont réutilisées, la recherche ne complète que ce qui manque.
+     *
+     * @param board Grille à analyser ('X' joue lorsque les deux symboles sont en nombre égal).
+     * @param limit Nombre maximal de noeuds à explorer pour chaque recherche.
+     * @return La ligne et colonne du coup, ou null si aucun coup n'est prouvé dans la limite.
+     */
+    public int[] bestMove(Board board, long limit)
+    {
+        loadPosition(board);
+        if (filled == cellCount)
+            return null;
+
+        byte mover = mover();
+        byte opponent = (mover == CELL_X) ? CELL_O : CELL_X;
+
+        //Le joueur peut-il forcer la victoire ? Si oui, jouer un enfant prouvé.
+        if (search(mover, limit) == PROVEN)
+        {
+            int move = findChild(mover, true);
+            if (move >= 0)
+                return new int[]{move / size, move % size};
+        }
+
+        //Sinon, jouer un coup pour lequel l'adversaire ne peut pas forcer la victoire.
+        if (search(opponent, limit) == DISPROVEN)
+        {
+            int move = findChild(opponent, false);
+            if (move >= 0)
+                return new int[]{move / size, move % size};
+        }
+
+        return null; //Position perdue ou non résolue.
+    }
+
+    /**
+     * Cherche parmi les enfants de la position courante un coup prouvé (ou réfuté) pour l'attaquant.
+     *
+     * @param role Attaquant dont on lit les résultats.
+     * @param proven true pour chercher un enfant prouvé, false pour un enfant réfuté.
+     * @return L'indice de la case à jouer, ou -1 si aucun enfant ne convient (entrée évincée).
+     */
+    private int findChild(byte role, boolean proven)
+    {
+        attacker = role;
+        byte mover = mover();
+        for (int i = 0; i < cellCount; i++)
+        {
+            if (cells[i] != EMPTY)
+                continue;
+
+            evaluateChild(i, mover);
+            if (proven ? childPn == 0 : childDn == 0)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Lance la recherche df-pn depuis la position courante.
+     *
+     * @param role Attaquant.
+     * @param limit Nombre maximal de noeuds à explorer.
+     * @return PROVEN, DISPROVEN ou UNKNOWN.
+     */
+    private int search(byte role, long limit)
+    {
+        attacker = role;
+        nodes = 0;
+        nodeLimit = limit;
+        nextCheckpoint = checkpointInterval;
+
+        if (filled == cellCount)
+            return DISPROVEN; //Grille pleine : match nul.
+
+        mid(INF, INF);
+
+        int index = lookup(currentKey());
+        if (index >= 0 && proofs[index] == 0)
+            return PROVEN;
+        if (index >= 0 && disproofs[index] == 0)
+            return DISPROVEN;
+        return UNKNOWN;
+    }
+
+    /**
+     * Développe la position courante jusqu'à ce que son nombre de preuve ou de réfutation
+     * atteigne le seuil donné (algorithme MID de df-pn).
+     *
+     * @param thPn Seuil du nombre de preuve.
+     * @param thDn Seuil du nombre de réfutation.
+     */
+    private void mid(int thPn, int thDn)
+    {
+        long startNodes = nodes++;
+        byte mover = mover();
+        boolean orNode = (mover == attacker); //L'attaquant choisit son coup : noeud OU.
+
+        while (true)
+        {
+            //Calcul des nombres du noeud à partir de ses enfants.
+            long pnSum = 0, dnSum = 0;
+            int pnMin = INF, dnMin = INF, pnMax = 0, dnMax = 0;
+            int second = INF; //Deuxième meilleure valeur, sert de seuil pour l'enfant choisi.
+            int best = -1, bestPn = 0, bestDn = 0;
+
+            for (int i = 0; i < cellCount; i++)
+            {
+                if (cells[i] != EMPTY)
+                    continue;
+
+                evaluateChild(i, mover);
+                pnSum += childPn;
+                dnSum += childDn;
+
+                int key = orNode ? childPn : childDn;
+                if (key < (orNode ? pnMin : dnMin))
+                {
+                    second = orNode ? pnMin : dnMin;
+                    best = i;
+                    bestPn = childPn;
+                    bestDn = childDn;
+                }
+                else if (key < second)
+                    second = key;
+
+                pnMin = Math.min(pnMin, childPn);
+                dnMin = Math.min(dnMin, childDn);
+                pnMax = Math.max(pnMax, childPn);
+                dnMax = Math.max(dnMax, childDn);
+            }
+
+            int pn = orNode ? pnMin : sum(pnSum, pnMax);
+            int dn = orNode ? sum(dnSum, dnMax) : dnMin;
+
+            if (pn >= thPn || dn >= thDn || nodes >= nodeLimit)
+            {
+                store(currentKey(), pn, dn, nodes - startNodes);
+                return;
+            }
+
+            if (checkpointFile != null && nodes >= nextCheckpoint)
+            {
+                store(currentKey(), pn, dn, nodes - startNodes);
+                checkpoint();
+            }
+
+            //Seuils de l'enfant le plus prometteur.
+            int childThPn, childThDn;
+            if (orNode)
+            {
+                childThPn = Math.min(thPn, widen(second));
+                childThDn = thDn - dn + bestDn;
+            }
+            else
+            {
+                childThPn = thPn - pn + bestPn;
+                childThDn = Math.min(thDn, widen(second));
+            }
+
+            place(best, mover);
+            mid(childThPn, childThDn);
+            undo(best, mover);
+        }
+    }
+
+    /**
+     * Évalue l'enfant obtenu en jouant la case donnée, et place ses nombres dans childPn et childDn.
+     * Les positions terminales sont détectées directement, les autres sont lues dans la table.
+     *
+     * @param index Indice de la case jouée.
+     * @param mover Symbole du joueur qui joue.
+     */
+    private void evaluateChild(int index, byte mover)
+    {
+        place(index, mover);
+
+        if (completesLine(index, mover))
+        {
+            //Le coup gagne : prouvé si c'est l'attaquant, réfuté sinon.
+            childPn = (mover == attacker) ? 0 : INF;
+            childDn = (mover == attacker) ? INF : 0;
+        }
+        else if (filled == cellCount || (attacker == CELL_X ? openX : openO) == 0)
+        {
+            //Match nul, ou toutes les lignes de l'attaquant sont bloquées : il ne peut plus gagner.
+            childPn = INF;
+            childDn = 0;
+        }
+        else
+        {
+            int entry = lookup(currentKey());
+            childPn = (entry >= 0) ? proofs[entry] : 1;
+            childDn = (entry >= 0) ? disproofs[entry] : 1;
+        }
+
+        undo(index, mover);
+    }
+
+    /**
+     * Vérifie si le symbole placé sur la case donnée complète une ligne (horizontale, verticale
+     * ou diagonale), ce qui revient à la vérification de BoardManager.isCompleteLine.
+     *
+     * @param index Indice de la case jouée.
+     * @param symbol Symbole placé.
+     * @return true si une ligne complète a été formée, false sinon.
+     */
+    private boolean completesLine(int index, byte symbol)
+    {
+        int[] counts = (symbol == CELL_X) ? lineX : lineO;
+        for (int line : cellLines[index])
+            if (counts[line] == size)
+                return true;
+        return false;
+    }
+
+    /**
+     * Copie la grille dans la représentation interne et calcule sa clé de Zobrist.
+     *
+     * @param board Grille à copier.
+     */
+    private void loadPosition(Board board)
+    {
+        if (board.getSize() != size)
+            throw new IllegalArgumentException("Board size does not match the solver");
+
+        filled = 0;
+        hash = 0;
+        Arrays.fill(cells, EMPTY);
+        Arrays.fill(lineX, 0);
+        Arrays.fill(lineO, 0);
+        openX = lineX.length;
+        openO = lineO.length;
+
+        for (int i = 0; i < cellCount; i++)
+        {
+            char cell = board.getCell(i / size, i % size);
+            if (cell == 'X')
+                place(i, CELL_X);
+            else if (cell == 'O')
+                place(i, CELL_O);
+        }
+    }
+
+    /**
+     * Retourne le symbole du joueur qui doit jouer ('X' commence).
+     *
+     * @return CELL_X ou CELL_O.
+     */
+    private byte mover()
+    {
+        return (filled % 2 == 0) ? CELL_X : CELL_O;
+    }
+
+    /**
+     * Place un symbole et met à jour la clé et les compteurs des lignes qui passent par la case.
+     *
+     * @param index Indice de la case.
+     * @param symbol Symbole à placer.
+     */
+    private void place(int index, byte symbol)
+    {
+        cells[index] = symbol;
+        filled++;
+        hash ^= (symbol == CELL_X) ? zobristX[index] : zobristO[index];
+
+        for (int line : cellLines[index])
+        {
+            if (symbol == CELL_X)
+            {
+                if (lineX[line]++ == 0)
+                    openO--; //Premier 'X' sur la ligne : elle est bloquée pour 'O'.
+            }
+            else if (lineO[line]++ == 0)
+                openX--;
+        }
+    }
+
+    /**
+     * Retire un symbole placé par place.
+     *
+     * @param index Indice de la case.
+     * @param symbol Symbole à retirer.
+     */
+    private void undo(int index, byte symbol)
+    {
+        cells[index] = EMPTY;
+        filled--;
+        hash ^= (symbol == CELL_X) ? zobristX[index] : zobristO[index];
+
+        for (int line : cellLines[index])
+        {
+            if (symbol == CELL_X)
+            {
+                if (--lineX[line] == 0)
+                    openO++;
+            }
+            else if (--lineO[line] == 0)
+                openX++;
+        }
+    }
+
+    /**
+     * Retourne la clé de la position courante pour l'attaquant courant (jamais 0, réservé aux entrées vides).
+     *
+     * @return La clé de la table de transposition.
+     */
+    private long currentKey()
+    {
+        long key = (attacker == CELL_O) ? hash ^ attackerOKey : hash;
+        return (key == 0) ? 1 : key;
+    }
+
+    /**
+     * Cherche une clé dans la table.
+     *
+     * @param key Clé de la position.
+     * @return L'indice de l'entrée, ou -1 si la position n'est pas dans la table.
+     */
+    private int lookup(long key)
+    {
+        int index = bucket(key);
+        if (keys[index] == key)
+            return index;
+        if (keys[index + 1] == key)
+            return index + 1;
+        return -1;
+    }
+
+    /**
+     * Enregistre les nombres d'une position. Chaque clé a deux emplacements possibles : la position
+     * remplace son ancienne entrée, sinon une entrée vide, sinon la moins précieuse des deux
+     * (une position non résolue avant une position résolue, puis celle qui a demandé le moins de travail).
+     * L'écriture n'est jamais refusée, pour que le parent relise toujours la valeur de l'enfant qu'il vient de développer.
+     *
+     * @param key Clé de la position.
+     * @param pn Nombre de preuve.
+     * @param dn Nombre de réfutation.
+     * @param work Nombre de noeuds explorés sous cette position.
+     */
+    private void store(long key, int pn, int dn, long work)
+    {
+        int index = lookup(key);
+        if (index < 0)
+        {
+            index = bucket(key);
+            if (keys[index] != 0 && (keys[index + 1] == 0 || priority(index + 1) < priority(index)))
+                index++;
+        }
+
+        keys[index] = key;
+        proofs[index] = pn;
+        disproofs[index] = dn;
+        works[index] = (int) Math.min(work, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retourne le premier des deux emplacements possibles d'une clé.
+     *
+     * @param key Clé de la position.
+     * @return Un indice pair de la table.
+     */
+    private int bucket(long key)
+    {
+        return (int) (key ^ (key >>> 32)) & mask & ~1;
+    }
+
+    /**
+     * Valeur de conservation d'une entrée : les positions résolues passent avant les autres.
+     *
+     * @param index Indice de l'entrée.
+     * @return Plus la valeur est grande, plus l'entrée doit être gardée.
+     */
+    private long priority(int index)
+    {
+        boolean solved = proofs[index] == 0 || disproofs[index] == 0;
+        return (solved ? (long) Integer.MAX_VALUE + 1 : 0) + works[index];
+    }
+
+    /**
+     * Seuil donné à l'enfant choisi à partir de la deuxième meilleure valeur (technique 1+ε) :
+     * un seuil un peu plus large que second + 1 évite de repasser sans cesse d'un enfant à l'autre.
+     *
+     * @param second Deuxième meilleure valeur parmi les enfants.
+     * @return Le seuil de l'enfant.
+     */
+    private static int widen(int second)
+    {
+        return (int) Math.min((long) second + 1 + second / 4, INF);
+    }
+
+    /**
+     * Borne la somme des nombres des enfants : elle n'est infinie que si un enfant l'est,
+     * une somme finie trop grande reste juste en dessous de INF.
+     *
+     * @param sum Somme des nombres des enfants.
+     * @param max Plus grand nombre parmi les enfants.
+     * @return La somme bornée.
+     */
+    private static int sum(long sum, int max)
+    {
+        return (max == INF) ? INF : (int) Math.min(sum, INF - 1);
+    }
+
+    /**
+     * Sauvegarde la table sans interrompre la recherche.
+     */
+    private void checkpoint()
+    {
+        nextCheckpoint = nodes + checkpointInterval;
+        try
+        {
+            saveCheckpoint(checkpointFile);
+        }
+        catch (IOException e)
+        {
+            System.err.println("Checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit la table de transposition dans un fichier. L'écriture se fait dans un fichier temporaire
+     * remplacé ensuite, pour ne jamais laisser une sauvegarde incomplète.
+     *
+     * @param file Fichier de sauvegarde.
+     * @throws IOException Si l'écriture échoue.
+     */
+    public void saveCheckpoint(Path file) throws IOException
+    {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+        {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeInt(size);
+            for (int i = 0; i < keys.length; i++)
+            {
+                //Seules les entrées occupées sont écrites.
+                if (keys[i] == 0)
+                    continue;
+                out.writeLong(keys[i]);
+                out.writeInt(proofs[i]);
+                out.writeInt(disproofs[i]);
+                out.writeInt(works[i]);
+            }
+            out.writeLong(0); //Fin des entrées.
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Recharge une table sauvegardée par saveCheckpoint. Les entrées sont réinsérées une à une,
+     * la table peut donc avoir une taille différente de celle du solveur qui l'a écrite.
+     *
+     * @param file Fichier de sauvegarde.
+     * @throws IOException Si le fichier est illisible ou ne correspond pas à ce solveur.
+     */
+    public void loadCheckpoint(Path file) throws IOException
+    {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+        {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != size)
+                throw new IOException("Checkpoint does not match this solver");
+
+            for (long key = in.readLong(); key != 0; key = in.readLong())
+            {
+                int pn = in.readInt();
+                int dn = in.readInt();
+                store(key, pn, dn, in.readInt());
+            }
+        }
+    }
+
+    /**
+     * Crée un solveur pour une partie, en rechargeant la sauvegarde "pns-<taille>.ckpt"
+     * du répertoire courant si elle existe.
+     *
+     * @param size Taille de la grille.
+     * @return Le solveur.
+     */
+    public static ProofNumberSolver forGame(int size)
+    {
+        ProofNumberSolver solver = new ProofNumberSolver(size, 20);
+        Path file = checkpointPath(size);
+        if (Files.exists(file))
+        {
+            try
+            {
+                solver.loadCheckpoint(file);
+            }
+            catch (IOException e)
+            {
+                System.err.println("Ignoring checkpoint " + file + ": " + e.getMessage());
+            }
+        }
+        return solver;
+    }
+
+    /**
+     * Crée un solveur pour jouer une partie, seulement s'il peut y prouver des coups :
+     * jusqu'à MAX_LIVE_SIZE, ou au-delà si la sauvegarde de cette taille résout la grille vide.
+     *
+     * @param size Taille de la grille.
+     * @return Le solveur, ou null si l'ordinateur doit jouer sans.
+     */
+    public static ProofNumberSolver forPlay(int size)
+    {
+        if (size > MAX_LIVE_SIZE && !Files.exists(checkpointPath(size)))
+            return null;
+
+        ProofNumberSolver solver = forGame(size);
+        return (size <= MAX_LIVE_SIZE || solver.isSolved()) ? solver : null;
+    }
+
+    /**
+     * Vérifie si la table contient la valeur exacte de la grille vide.
+     *
+     * @return true si l'un des deux joueurs force la victoire, ou s'il est prouvé qu'aucun ne le peut.
+     */
+    public boolean isSolved()
+    {
+        loadPosition(new Board(size));
+
+        attacker = CELL_X;
+        int x = lookup(currentKey());
+        if (x >= 0 && proofs[x] == 0)
+            return true;
+
+        attacker = CELL_O;
+        int o = lookup(currentKey());
+        return x >= 0 && disproofs[x] == 0 && o >= 0 && (proofs[o] == 0 || disproofs[o] == 0);
+    }
+
+    private static Path checkpointPath(int size)
+    {
+        return Paths.get("pns-" + size + ".ckpt");
+    }
+
+    /**
+     * Résout les tailles de grille données en argument et affiche un rapport.
+     * Usage : java ProofNumberSolver [tailles...] (par défaut 3 et 4).
+     * Chaque taille est sauvegardée dans "pns-<taille>.ckpt" et reprise au prochain lancement.
+     *
+     * @param args Tailles de grille à résoudre.
+     */
+    public static void main(String[] args)
+    {
+        int[] sizes = {3, 4};
+        try
+        {
+            if (args.length > 0)
+            {
+                sizes = new int[args.length];
+                for (int i = 0; i < args.length; i++)
+                    sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            System.out.println("Usage: java ProofNumberSolver [size...]");
+            return;
+        }
+
+        for (int size : sizes)
+        {
+            ProofNumberSolver solver = new ProofNumberSolver(size, 22);
+            Path file = checkpointPath(size);
+            try
+            {
+                if (Files.exists(file))
+                {
+                    solver.loadCheckpoint(file);
+                    System.out.println("Resuming " + size + "x" + size + " from " + file);
+                }
+            }
+            catch (IOException e)
+            {
+                System.out.println("Ignoring checkpoint " + file + ": " + e.getMessage());
+            }
+            solver.setCheckpoint(file, 5_000_000);
+
+            Board board = new Board(size);
+            long start = System.nanoTime();
+            int x = solver.solve(board, 'X', Long.MAX_VALUE);
+            long xNodes = solver.nodes;
+            int o = (x == PROVEN) ? DISPROVEN : solver.solve(board, 'O', Long.MAX_VALUE);
+            long oNodes = (x == PROVEN) ? 0 : solver.nodes;
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            try
+            {
+                solver.saveCheckpoint(file);
+            }
+            catch (IOException e)
+            {
+                System.out.println("Checkpoint failed: " + e.getMessage());
+            }
+
+            String result = (x == PROVEN) ? "X wins" : (o == PROVEN) ? "O wins" : "Draw";
+            System.out.printf("%dx%d: %s (X %s, O %s, %d + %d nodes, %.2f s)%n",
+                    size, size, result, describe(x), describe(o), xNodes, oNodes, seconds);
+        }
+    }
+
+    private static String describe(int result)
+    {
+        return (result == PROVEN) ? "forces a win" : (result == DISPROVEN) ? "cannot force a win" : "unknown";
+    }
+}
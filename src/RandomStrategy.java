@@ -0,0 +1,34 @@
+import java.util.Random;
+
+/**
+ * Classe RandomStrategy qui joue un coup aléatoire sur une case libre.
+ */
+public class RandomStrategy implements MoveStrategy {
+
+    private final Random rand; //Générateur de nombres aléatoires pour les mouvements.
+
+    /**
+     * Constructeur de la classe RandomStrategy.
+     *
+     * @param rand Générateur de nombres aléatoires.
+     */
+    public RandomStrategy(Random rand)
+    {
+        this.rand = rand;
+    }
+
+    @Override
+    public int[] chooseMove(Board board, char role)
+    {
+        //Générer aléatoirement une case vide pour jouer.
+        int row, col;
+        do
+        {
+            row = rand.nextInt(board.getSize());
+            col = rand.nextInt(board.getSize());
+        }
+        while (!board.isCellEmpty(row, col));
+
+        return new int[]{row, col};
+    }
+}
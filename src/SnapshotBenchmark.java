@@ -0,0 +1,115 @@
+import java.util.Random;
+
+/**
+ * Mesure le coût de la publication des copies de la grille sur le chemin d'un coup.
+ * Joue les mêmes parties avec deux BoardManager, l'un qui publie une copie après chaque coup
+ * (comportement normal), l'autre qui ne publie rien, et compare le temps moyen par coup.
+ * Le joueur 'X' suit un ordre de cases fixé et l'ordinateur tire ses coups avec la même graine,
+ * pour que les deux mesures jouent les mêmes coups.
+ * Usage : java SnapshotBenchmark [tailles...] (par défaut 3, 4, 5 et 8).
+ */
+public class SnapshotBenchmark {
+
+    private static final int GAMES = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args)
+    {
+        int[] sizes = {3, 4, 5, 8};
+        try
+        {
+            if (args.length > 0)
+            {
+                sizes = new int[args.length];
+                for (int i = 0; i < args.length; i++)
+                    sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        catch (NumberFormatException e)
+        {
+            System.out.println("Usage: java SnapshotBenchmark [size...]");
+            return;
+        }
+
+        for (int size : sizes)
+        {
+            int[][] moves = shuffledCells(size);
+            double base = 0, withSnapshot = 0;
+            long sink = 0;
+
+            //Les premiers tours servent à chauffer le JIT, seul le dernier est affiché.
+            for (int round = 0; round < ROUNDS; round++)
+            {
+                long[] result = play(size, moves, false);
+                base = result[0] / (double) result[1];
+                sink += result[2];
+
+                result = play(size, moves, true);
+                withSnapshot = result[0] / (double) result[1];
+                sink += result[2];
+            }
+
+            System.out.printf("%dx%d: %.2f ns/move without snapshot, %.2f ns/move with snapshot (%+.2f ns) [%d]%n",
+                    size, size, base, withSnapshot, withSnapshot - base, sink);
+        }
+    }
+
+    /**
+     * Joue des parties complètes avec BoardManager : 'X' joue la première case libre dans l'ordre donné,
+     * l'ordinateur joue 'O' au hasard avec une graine fixée.
+     *
+     * @param size Taille de la grille.
+     * @param moves Ordre dans lequel 'X' choisit ses cases.
+     * @param snapshots true pour publier une copie après chaque coup.
+     * @return {nanosecondes, nombre de coups, somme des états et versions lus} ; la somme empêche le JIT
+     *         de supprimer les parties.
+     */
+    private static long[] play(int size, int[][] moves, boolean snapshots)
+    {
+        BoardManager manager = new BoardManager(size, 'X', snapshots, new Random(size));
+
+        long played = 0, sink = 0;
+        long start = System.nanoTime();
+
+        for (int game = 0; game < GAMES; game++)
+        {
+            int next = 0;
+            int state = 2;
+            while (state == 2)
+            {
+                if (manager.getCurrentRole() == 'X')
+                {
+                    while (!manager.playerTurn(moves[next][0], moves[next][1]))
+                        next++;
+                }
+                else
+                    manager.computerTurn();
+                played++;
+                state = manager.checkState();
+            }
+            sink += state + manager.getSnapshot().getVersion();
+
+            manager.resetGrid();
+            manager.setRole('X');
+        }
+
+        return new long[]{System.nanoTime() - start, played, sink};
+    }
+
+    private static int[][] shuffledCells(int size)
+    {
+        int[][] cells = new int[size * size][];
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = new int[]{i / size, i % size};
+
+        Random rand = new Random(size);
+        for (int i = cells.length - 1; i > 0; i--)
+        {
+            int j = rand.nextInt(i + 1);
+            int[] swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+        return cells;
+    }
+}
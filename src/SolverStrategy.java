@@ -0,0 +1,32 @@
+import java.util.Random;
+
+/**
+ * Classe SolverStrategy qui joue le coup prouvé par un ProofNumberSolver,
+ * ou un coup aléatoire quand le solveur ne prouve rien dans sa limite de noeuds.
+ */
+public class SolverStrategy implements MoveStrategy {
+
+    private static final long NODE_LIMIT = 200_000; //Nombre de noeuds que le solveur peut explorer par coup.
+
+    private final ProofNumberSolver solver;
+    private final RandomStrategy fallback;
+
+    /**
+     * Constructeur de la classe SolverStrategy.
+     *
+     * @param solver Le solveur de la taille de la grille.
+     * @param rand Générateur de nombres aléatoires pour les coups non prouvés.
+     */
+    public SolverStrategy(ProofNumberSolver solver, Random rand)
+    {
+        this.solver = solver;
+        this.fallback = new RandomStrategy(rand);
+    }
+
+    @Override
+    public int[] chooseMove(Board board, char role)
+    {
+        int[] move = solver.bestMove(board, NODE_LIMIT);
+        return (move != null) ? move : fallback.chooseMove(board, role);
+    }
+}
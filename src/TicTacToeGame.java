@@ -1,3 +1,7 @@
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Cette classe gère le déroulement du jeu. Elle interagit avec la classe TicTacToeGUI pour l'affichage,
  * ainsi qu'avec la classe BoardManager pour les actions et modifications du board.
@@ -9,6 +13,13 @@ public class TicTacToeGame {
     private TicTacToeGUI ui; //gère l'affichage
     private final int gameSize;
 
+    //Thread unique de l'ordinateur : chargement du solveur et coups s'y exécutent dans l'ordre, hors du thread Swing.
+    private final ExecutorService computer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "computer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     /**
      * Constructeur de la classe TicTacToeGame.
      * 
@@ -28,13 +39,27 @@ public class TicTacToeGame {
      */
     public void startGame(char playerRole)
     {
-        //Si première partie, instantier le BoardManager. Sinon, simplement modifier le rôle choisi.
+        //Si première partie, instantier le BoardManager et charger son solveur. Sinon, simplement modifier le rôle choisi.
         if (boardManager == null)
+        {
             this.boardManager = new BoardManager(gameSize, playerRole);
+            computer.execute(this::installSolver);
+        }
         else
             boardManager.setRole(playerRole);
         
-        if (playerRole == 'O') computerTurn();
+        if (playerRole == 'O') computer.execute(this::computerTurn);
+    }
+
+    /**
+     * Donne le solveur à l'ordinateur quand il peut prouver ses coups dans sa limite de noeuds.
+     * Sinon l'ordinateur garde les coups aléatoires.
+     */
+    private void installSolver()
+    {
+        ProofNumberSolver solver = ProofNumberSolver.forPlay(gameSize);
+        if (solver != null)
+            boardManager.setStrategy(new SolverStrategy(solver, new Random()));
     }
 
     /**
@@ -59,8 +84,8 @@ public class TicTacToeGame {
             //Si le jeu est toujours en cours, lancer le tour de l'ordinateur après un délai.
             if (state == 2)
             {
-                //Nouveau thread pour lancer le délai avant le tour de l'ordinateur, puis lancer le tour.
-                new Thread(() -> {
+                //Thread de l'ordinateur pour lancer le délai avant son tour, puis lancer le tour.
+                computer.execute(() -> {
                     try
                     {
                         Thread.sleep(200);
@@ -70,7 +95,7 @@ public class TicTacToeGame {
                     {
                         Thread.currentThread().interrupt();
                     }
-                }).start();
+                });
             } 
         }
     }
@@ -0,0 +1,498 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Coordinateur d'un tournoi entre stratégies (voir MoveStrategy).
+ * Chaque paire de stratégies joue avec les deux rôles ; les parties sont découpées en lots
+ * répartis entre plusieurs processus TournamentWorker qui communiquent par leurs entrées/sorties standard.
+ * Chaque lot terminé est ajouté au fichier de sauvegarde, un tournoi interrompu reprend donc
+ * là où il s'était arrêté. Les résultats sont résumés en classement Elo avec intervalle de confiance.
+ */
+public class TournamentRunner {
+
+    private final int size;
+    private final String[] names; //Stratégies du tournoi.
+    private final int workers;
+    private final Path checkpointFile;
+
+    private final List<Shard> shards = new ArrayList<>();
+    private final Queue<Shard> pending = new ArrayDeque<>(); //Lots à jouer, protégés par le verrou du coordinateur.
+    private int unfinished; //Lots pas encore joués, en file ou en cours chez un processus.
+    private final long[] workerGames, workerNanos; //Parties et temps de jeu de chaque processus.
+    private PrintWriter checkpoint;
+
+    private static final int MAX_RESTARTS = 3; //Nombre de fois qu'un processus défaillant est relancé.
+
+    /**
+     * Lot de parties entre deux stratégies, avec un rôle fixe pour chacune.
+     */
+    private static class Shard {
+        final int id, x, o, games;
+        int xWins, draws, oWins;
+        boolean done;
+
+        Shard(int id, int x, int o, int games)
+        {
+            this.id = id;
+            this.x = x;
+            this.o = o;
+            this.games = games;
+        }
+    }
+
+    /**
+     * Constructeur de la classe TournamentRunner.
+     *
+     * @param size Taille de la grille.
+     * @param names Noms des stratégies.
+     * @param games Nombre de parties par paire de stratégies et par rôle.
+     * @param shardGames Nombre de parties par lot.
+     * @param workers Nombre de processus de travail.
+     */
+    public TournamentRunner(int size, String[] names, int games, int shardGames, int workers)
+    {
+        this.size = size;
+        this.names = names;
+        this.workers = workers;
+        this.workerGames = new long[workers];
+        this.workerNanos = new long[workers];
+        this.checkpointFile = Paths.get("tournament-" + size + ".ckpt");
+
+        //Tous contre tous, dans les deux rôles.
+        for (int x = 0; x < names.length; x++)
+            for (int o = 0; o < names.length; o++)
+                if (x != o)
+                    for (int played = 0; played < games; played += shardGames)
+                        shards.add(new Shard(shards.size(), x, o, Math.min(shardGames, games - played)));
+    }
+
+    /**
+     * Lance le tournoi : reprend la sauvegarde, répartit les lots restants entre les processus,
+     * puis affiche la vitesse de chaque processus et le classement.
+     *
+     * @throws IOException Si la sauvegarde ne correspond pas à ce tournoi ou ne peut pas être écrite.
+     * @throws InterruptedException Si le coordinateur est interrompu.
+     */
+    public void run() throws IOException, InterruptedException
+    {
+        String header = "# size=" + size + " strategies=" + String.join(",", names) + " shards=" + shards.size()
+                + " games=" + shards.stream().mapToInt(s -> s.games).sum();
+        int resumed = resume(header);
+
+        for (Shard shard : shards)
+            if (!shard.done)
+                pending.add(shard);
+        unfinished = pending.size();
+
+        System.out.println("Tournament " + size + "x" + size + ": " + shards.size() + " shards, "
+                + resumed + " resumed from " + checkpointFile + ", " + workers + " workers");
+
+        long start = System.nanoTime();
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)))
+        {
+            checkpoint = out;
+            if (Files.size(checkpointFile) == 0)
+                writeCheckpoint(header);
+            else if (!endsWithNewline(checkpointFile))
+                writeCheckpoint(""); //Terminer la ligne coupée avant d'ajouter les suivantes.
+
+            Thread[] threads = new Thread[workers];
+            for (int i = 0; i < workers; i++)
+            {
+                final int worker = i;
+                threads[i] = new Thread(() -> drive(worker), "tournament-worker-" + i);
+                threads[i].start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        if (!pending.isEmpty())
+            System.out.println(pending.size() + " shards were not played, run again to resume.");
+
+        printThroughput(wallNanos);
+        printRatings();
+    }
+
+    /**
+     * Relit la sauvegarde et marque les lots déjà joués.
+     *
+     * @param header Première ligne attendue, qui décrit le tournoi.
+     * @return Le nombre de lots repris.
+     * @throws IOException Si la sauvegarde décrit un autre tournoi.
+     */
+    private int resume(String header) throws IOException
+    {
+        if (!Files.exists(checkpointFile) || Files.size(checkpointFile) == 0)
+            return 0;
+
+        List<String> lines = Files.readAllLines(checkpointFile, StandardCharsets.UTF_8);
+        if (!lines.get(0).equals(header))
+            throw new IOException(checkpointFile + " was written for another tournament, move it away to start a new one");
+
+        int resumed = 0;
+        for (String line : lines.subList(1, lines.size()))
+        {
+            //id victoiresX nuls victoiresO ; une ligne incomplète (arrêt pendant l'écriture) est ignorée.
+            int[] entry = parseCheckpointLine(line);
+            if (entry == null || shards.get(entry[0]).done)
+                continue;
+
+            complete(shards.get(entry[0]), entry[1], entry[2], entry[3]);
+            resumed++;
+        }
+        return resumed;
+    }
+
+    /**
+     * Lit une ligne de résultat de la sauvegarde. Une ligne coupée peut garder quatre champs
+     * (par exemple "12 340 5 1" au lieu de "12 340 5 12") : elle n'est acceptée que si
+     * ses résultats correspondent exactement au nombre de parties du lot.
+     *
+     * @param line Ligne de la sauvegarde.
+     * @return {lot, victoiresX, nuls, victoiresO}, ou null si la ligne est incomplète ou invalide.
+     */
+    private int[] parseCheckpointLine(String line)
+    {
+        String[] fields = line.split(" ");
+        if (fields.length != 4)
+            return null;
+
+        try
+        {
+            int id = Integer.parseInt(fields[0]);
+            if (id < 0 || id >= shards.size())
+                return null;
+
+            int[] counts = parseCounts(fields, 1, shards.get(id));
+            return (counts == null) ? null : new int[]{id, counts[0], counts[1], counts[2]};
+        }
+        catch (NumberFormatException e)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Lit les résultats d'un lot et vérifie qu'ils comptent exactement ses parties.
+     *
+     * @param fields Champs de la ligne.
+     * @param first Indice du nombre de victoires de 'X', suivi des nuls et des victoires de 'O'.
+     * @param shard Lot concerné.
+     * @return {victoiresX, nuls, victoiresO}, ou null si un nombre est négatif ou si le total est faux.
+     * @throws NumberFormatException Si un champ n'est pas un nombre.
+     */
+    private static int[] parseCounts(String[] fields, int first, Shard shard)
+    {
+        int xWins = Integer.parseInt(fields[first]);
+        int draws = Integer.parseInt(fields[first + 1]);
+        int oWins = Integer.parseInt(fields[first + 2]);
+        if (xWins < 0 || draws < 0 || oWins < 0 || (long) xWins + draws + oWins != shard.games)
+            return null;
+        return new int[]{xWins, draws, oWins};
+    }
+
+    private static void complete(Shard shard, int xWins, int draws, int oWins)
+    {
+        shard.xWins = xWins;
+        shard.draws = draws;
+        shard.oWins = oWins;
+        shard.done = true;
+    }
+
+    /**
+     * Vérifie si le fichier se termine par un retour à la ligne, pour que le prochain ajout
+     * ne se colle pas à une ligne coupée.
+     *
+     * @param file Fichier à vérifier.
+     * @return true si le fichier est vide ou se termine par '\n'.
+     * @throws IOException Si le fichier ne peut pas être lu.
+     */
+    private static boolean endsWithNewline(Path file) throws IOException
+    {
+        try (RandomAccessFile in = new RandomAccessFile(file.toFile(), "r"))
+        {
+            if (in.length() == 0)
+                return true;
+            in.seek(in.length() - 1);
+            return in.read() == '\n';
+        }
+    }
+
+    /**
+     * Fait jouer des lots à un processus de travail jusqu'à ce que tous les lots soient joués.
+     * Un processus défaillant est arrêté et remplacé, au plus MAX_RESTARTS fois.
+     *
+     * @param worker Numéro du processus.
+     */
+    private void drive(int worker)
+    {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), "TournamentWorker");
+        builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        try
+        {
+            for (int restarts = 0; !serve(worker, builder); restarts++)
+            {
+                if (restarts == MAX_RESTARTS)
+                {
+                    System.err.println("Worker " + worker + " gave up after " + MAX_RESTARTS + " restarts");
+                    return;
+                }
+                System.err.println("Restarting worker " + worker);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lance un processus de travail et lui envoie des lots jusqu'à ce que tous soient joués.
+     * Si le processus échoue, il est arrêté et son lot en cours est remis dans la file.
+     *
+     * @param worker Numéro du processus.
+     * @param builder Commande qui lance le processus.
+     * @return true si tous les lots sont joués, false si le processus a échoué.
+     * @throws InterruptedException Si le coordinateur est interrompu.
+     */
+    private boolean serve(int worker, ProcessBuilder builder) throws InterruptedException
+    {
+        Process process = null;
+        Shard shard = null;
+        try
+        {
+            process = builder.start();
+            try (PrintWriter toWorker = new PrintWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+                 BufferedReader fromWorker = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)))
+            {
+                while ((shard = nextShard()) != null)
+                {
+                    toWorker.println("SHARD " + shard.id + " " + size + " " + names[shard.x] + " " + names[shard.o]
+                            + " " + shard.games + " " + (shard.id * 0x9E3779B97F4A7C15L));
+                    toWorker.flush();
+
+                    String[] result = readResult(fromWorker, shard);
+                    record(worker, shard, result);
+                    shard = null;
+                }
+                toWorker.println("QUIT");
+            }
+            process.waitFor();
+            return true;
+        }
+        catch (IOException | NumberFormatException e)
+        {
+            //Une réponse illisible est traitée comme un processus défaillant.
+            System.err.println("Worker " + worker + " failed: " + e.getMessage());
+            if (shard != null)
+                requeue(shard); //Laisser ce processus relancé ou un autre jouer ce lot.
+            return false;
+        }
+        finally
+        {
+            if (process != null)
+                process.destroy(); //Sans effet si le processus s'est déjà terminé.
+        }
+    }
+
+    /**
+     * Attend le prochain lot à jouer. Une file vide ne suffit pas pour s'arrêter : un lot en cours
+     * chez un autre processus y revient si ce processus échoue.
+     *
+     * @return Le prochain lot, ou null quand tous les lots sont joués.
+     * @throws InterruptedException Si le coordinateur est interrompu.
+     */
+    private synchronized Shard nextShard() throws InterruptedException
+    {
+        while (pending.isEmpty() && unfinished > 0)
+            wait();
+        return pending.poll();
+    }
+
+    private synchronized void requeue(Shard shard)
+    {
+        pending.add(shard);
+        notifyAll();
+    }
+
+    /**
+     * Lit la réponse d'un processus pour le lot donné.
+     *
+     * @param fromWorker Sortie du processus.
+     * @param shard Lot envoyé.
+     * @return Les champs de la ligne RESULT.
+     * @throws IOException Si le processus s'est arrêté ou a répondu autre chose.
+     */
+    private static String[] readResult(BufferedReader fromWorker, Shard shard) throws IOException
+    {
+        String line = fromWorker.readLine();
+        if (line == null)
+            throw new IOException("worker exited during shard " + shard.id);
+
+        String[] result = line.split(" ");
+        if (result.length != 6 || !result[0].equals("RESULT") || Integer.parseInt(result[1]) != shard.id)
+            throw new IOException("unexpected reply: " + line);
+        return result;
+    }
+
+    /**
+     * Enregistre le résultat d'un lot et l'ajoute à la sauvegarde.
+     *
+     * @param worker Numéro du processus qui l'a joué.
+     * @param shard Lot joué.
+     * @param result Champs de la ligne RESULT.
+     * @throws IOException Si les résultats ne comptent pas exactement les parties du lot.
+     * @throws NumberFormatException Si un champ n'est pas un nombre.
+     */
+    private synchronized void record(int worker, Shard shard, String[] result) throws IOException
+    {
+        //Lire et vérifier tous les champs avant de modifier le lot, pour qu'une réponse invalide le laisse intact.
+        int[] counts = parseCounts(result, 2, shard);
+        long nanos = Long.parseLong(result[5]);
+        if (counts == null)
+            throw new IOException("results of shard " + shard.id + " do not add up to " + shard.games + " games");
+
+        complete(shard, counts[0], counts[1], counts[2]);
+        workerGames[worker] += shard.games;
+        workerNanos[worker] += nanos;
+
+        writeCheckpoint(shard.id + " " + shard.xWins + " " + shard.draws + " " + shard.oWins);
+
+        unfinished--;
+        notifyAll(); //Réveiller les processus qui attendent la fin du tournoi.
+    }
+
+    private synchronized void writeCheckpoint(String line)
+    {
+        checkpoint.println(line);
+        checkpoint.flush();
+    }
+
+    /**
+     * Affiche le nombre de parties par seconde de chaque processus (temps de jeu seul) et du tournoi (temps réel).
+     *
+     * @param wallNanos Durée totale du tournoi.
+     */
+    private void printThroughput(long wallNanos)
+    {
+        long total = 0;
+        for (int i = 0; i < workers; i++)
+        {
+            total += workerGames[i];
+            System.out.printf("Worker %d: %d games, %.1f games/s%n", i, workerGames[i], perSecond(workerGames[i], workerNanos[i]));
+        }
+        System.out.printf("Overall: %d games in %.2f s, %.1f games/s%n", total, wallNanos / 1e9, perSecond(total, wallNanos));
+    }
+
+    private static double perSecond(long games, long nanos)
+    {
+        return (nanos == 0) ? 0 : games / (nanos / 1e9);
+    }
+
+    /**
+     * Affiche les résultats de chaque paire puis le classement Elo.
+     */
+    private void printRatings()
+    {
+        int n = names.length;
+        double[][] score = new double[n][n]; //Points de i contre j (victoire = 1, nul = 0.5).
+        double[][] games = new double[n][n];
+
+        for (Shard shard : shards)
+        {
+            if (!shard.done)
+                continue;
+            score[shard.x][shard.o] += shard.xWins + shard.draws / 2.0;
+            score[shard.o][shard.x] += shard.oWins + shard.draws / 2.0;
+            games[shard.x][shard.o] += shard.games;
+            games[shard.o][shard.x] += shard.games;
+        }
+
+        System.out.println();
+        for (int i = 0; i < n; i++)
+            for (int j = i + 1; j < n; j++)
+                System.out.printf("%s vs %s: %.1f - %.1f (%d games)%n",
+                        names[i], names[j], score[i][j], score[j][i], (long) games[i][j]);
+
+        double[][] elo = EloRatings.compute(score, games);
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(elo[b][0], elo[a][0]));
+
+        System.out.println();
+        for (int i : order)
+            System.out.printf("%-8s %7.1f +/- %.1f%n", names[i], elo[i][0], elo[i][1]);
+    }
+
+    /**
+     * Lance un tournoi.
+     * Usage : java TournamentRunner [-size N] [-games N] [-shard N] [-workers N] [stratégies...]
+     * Par défaut : grille 3x3, 10000 parties par paire et par rôle, lots de 1000 parties,
+     * un processus par coeur, stratégies random, greedy et solver.
+     *
+     * @param args Options et noms des stratégies.
+     */
+    public static void main(String[] args) throws InterruptedException
+    {
+        int size = 3, games = 10_000, shardGames = 1_000;
+        int workers = Runtime.getRuntime().availableProcessors();
+        List<String> names = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < args.length; i++)
+            {
+                switch (args[i])
+                {
+                    case "-size": size = Integer.parseInt(args[++i]); break;
+                    case "-games": games = Integer.parseInt(args[++i]); break;
+                    case "-shard": shardGames = Integer.parseInt(args[++i]); break;
+                    case "-workers": workers = Integer.parseInt(args[++i]); break;
+                    default: names.add(args[i]);
+                }
+            }
+        }
+        catch (NumberFormatException | ArrayIndexOutOfBoundsException e)
+        {
+            size = 0; //Affiche l'usage ci-dessous.
+        }
+
+        if (names.isEmpty())
+            names.addAll(Arrays.asList(MoveStrategy.NAMES));
+
+        if (size < 3 || games < 1 || shardGames < 1 || workers < 1 || names.size() < 2)
+        {
+            System.out.println("Usage: java TournamentRunner [-size N] [-games N] [-shard N] [-workers N] [strategy...]");
+            return;
+        }
+
+        //Vérifier les noms, et que le solveur peut jouer sur cette taille, avant de lancer les processus.
+        try
+        {
+            for (String name : names)
+                MoveStrategy.create(name, size, new Random());
+        }
+        catch (IllegalArgumentException e)
+        {
+            System.out.println(e.getMessage());
+            return;
+        }
+
+        try
+        {
+            new TournamentRunner(size, names.toArray(new String[0]), games, shardGames, workers).run();
+        }
+        catch (IOException e)
+        {
+            System.out.println(e.getMessage());
+        }
+    }
+}
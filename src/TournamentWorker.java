@@ -0,0 +1,104 @@
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Processus de travail lancé par TournamentRunner.
+ * Il lit des lots de parties sur son entrée standard, les joue, et répond sur sa sortie standard.
+ *
+ * Protocole, une commande par ligne :
+ *   SHARD id taille stratégieX stratégieO parties graine  ->  RESULT id victoiresX nuls victoiresO nanosecondes
+ *   QUIT                                                  ->  fin du processus
+ */
+public class TournamentWorker {
+
+    //Stratégies déjà créées, réutilisées d'un lot à l'autre (le solveur garde ainsi sa table).
+    private final Map<String, MoveStrategy> strategies = new HashMap<>();
+    private final Random rand = new Random();
+
+    public static void main(String[] args) throws IOException
+    {
+        new TournamentWorker().run(new BufferedReader(new InputStreamReader(System.in)), System.out);
+    }
+
+    /**
+     * Traite les commandes jusqu'à QUIT ou la fin de l'entrée.
+     *
+     * @param in Commandes du coordinateur.
+     * @param out Réponses au coordinateur.
+     * @throws IOException Si la lecture échoue.
+     */
+    private void run(BufferedReader in, PrintStream out) throws IOException
+    {
+        String line;
+        while ((line = in.readLine()) != null && !line.equals("QUIT"))
+        {
+            String[] shard = line.split(" ");
+            if (shard.length != 7 || !shard[0].equals("SHARD"))
+                throw new IOException("Unexpected command: " + line);
+
+            int size = Integer.parseInt(shard[2]);
+            int games = Integer.parseInt(shard[5]);
+            rand.setSeed(Long.parseLong(shard[6]));
+
+            MoveStrategy x = strategy(shard[3], size);
+            MoveStrategy o = strategy(shard[4], size);
+
+            long start = System.nanoTime();
+            int[] results = playGames(size, x, o, games);
+            long nanos = System.nanoTime() - start;
+
+            out.println("RESULT " + shard[1] + " " + results[0] + " " + results[1] + " " + results[2] + " " + nanos);
+            out.flush();
+        }
+    }
+
+    /**
+     * Joue des parties où 'X' est le joueur et 'O' l'ordinateur de BoardManager.
+     *
+     * @param size Taille de la grille.
+     * @param x Stratégie de 'X'.
+     * @param o Stratégie de 'O'.
+     * @param games Nombre de parties.
+     * @return Le nombre de victoires de 'X', de nuls et de victoires de 'O'.
+     */
+    private int[] playGames(int size, MoveStrategy x, MoveStrategy o, int games)
+    {
+        int[] results = new int[3];
+        BoardManager manager = new BoardManager(size, 'X');
+        manager.setStrategy(o);
+
+        for (int game = 0; game < games; game++)
+        {
+            int state = 2;
+            while (state == 2)
+            {
+                if (manager.getCurrentRole() == 'X')
+                    manager.playerTurn(x);
+                else
+                    manager.computerTurn();
+                state = manager.checkState();
+            }
+
+            //checkState : 1 pour le joueur ('X'), 0 pour égalité, -1 pour l'ordinateur ('O').
+            results[1 - state]++;
+
+            manager.resetGrid();
+            manager.setRole('X');
+        }
+        return results;
+    }
+
+    /**
+     * Retourne la stratégie de ce nom, en la créant au premier appel.
+     *
+     * @param name Nom de la stratégie.
+     * @param size Taille de la grille.
+     * @return La stratégie.
+     */
+    private MoveStrategy strategy(String name, int size)
+    {
+        return strategies.computeIfAbsent(name + "/" + size, key -> MoveStrategy.create(name, size, rand));
+    }
+}